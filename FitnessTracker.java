@@ -9,6 +9,7 @@ import javax.swing.border.*;
 import javax.swing.table.*;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 
 public class FitnessTracker {
 
@@ -54,7 +55,9 @@ public class FitnessTracker {
         }
     }
 
-    static class Activity {
+    static class Activity implements Serializable {
+        private static final long serialVersionUID = 1L;
+
         private String type;
         private String category;
         private int duration;
@@ -84,19 +87,29 @@ public class FitnessTracker {
         }
     }
 
-    static class Goal {
+    static class Goal implements Serializable {
+        private static final long serialVersionUID = 1L;
+
         private String goalType;
         private double target;
         private double progress;
         private LocalDate startDate;
-        private LocalDate endDate;
+        private LocalDate endDate; // exclusive: the goal expires when this day begins
+        private int durationDays;
+        private boolean recurring;
 
         public Goal(String goalType, double target, int durationDays) {
+            this(goalType, target, durationDays, false);
+        }
+
+        public Goal(String goalType, double target, int durationDays, boolean recurring) {
             this.goalType = goalType;
             this.target = target;
             this.progress = 0;
             this.startDate = LocalDate.now();
             this.endDate = startDate.plusDays(durationDays);
+            this.durationDays = durationDays;
+            this.recurring = recurring;
         }
 
         public void updateProgress(double value) {
@@ -107,10 +120,32 @@ public class FitnessTracker {
             return progress >= target;
         }
 
+        // Progress the goal should have reached by the given day if spread evenly over its period
+        public double getExpectedProgress(LocalDate day) {
+            long totalDays = ChronoUnit.DAYS.between(startDate, endDate);
+            if (totalDays <= 0) return target;
+            long elapsedDays = Math.min(Math.max(ChronoUnit.DAYS.between(startDate, day), 0), totalDays);
+            return target * elapsedDays / totalDays;
+        }
+
+        public boolean isBehindPace(LocalDate day) {
+            return !isAchieved() && progress < getExpectedProgress(day);
+        }
+
+        // Rolls a recurring goal over to the period right after the current one and resets its progress
+        public void startNextPeriod() {
+            startDate = endDate;
+            endDate = startDate.plusDays(Math.max(durationDays, 1));
+            progress = 0;
+        }
+
         public double getProgress() { return progress; }
         public double getTarget() { return target; }
         public String getGoalType() { return goalType; }
+        public LocalDate getStartDate() { return startDate; }
         public LocalDate getEndDate() { return endDate; }
+        public int getDurationDays() { return durationDays; }
+        public boolean isRecurring() { return recurring; }
 
         public int getProgressPercentage() {
             return (int) ((progress / target) * 100);
@@ -123,16 +158,149 @@ public class FitnessTracker {
                 goalType.toLowerCase(),
                 getProgressPercentage(),
                 endDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")),
-                isAchieved() ? "✓" : "");
+                isAchieved() ? "✓" : "")
+                + (recurring ? String.format(" (repeats every %d days)", durationDays) : "");
         }
     }
 
+    // Final result of a goal period, kept once the goal has expired
+    static class ArchivedGoal implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private String goalType;
+        private double target;
+        private double finalProgress;
+        private LocalDate startDate;
+        private LocalDate endDate;
+
+        public ArchivedGoal(Goal goal) {
+            this.goalType = goal.getGoalType();
+            this.target = goal.getTarget();
+            this.finalProgress = goal.getProgress();
+            this.startDate = goal.getStartDate();
+            this.endDate = goal.getEndDate();
+        }
+
+        public String getGoalType() { return goalType; }
+        public double getTarget() { return target; }
+        public double getFinalProgress() { return finalProgress; }
+        public LocalDate getStartDate() { return startDate; }
+        public LocalDate getEndDate() { return endDate; }
+
+        public boolean wasAchieved() {
+            return finalProgress >= target;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %.1f/%.1f (%s to %s) - %s",
+                goalType, finalProgress, target,
+                startDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")),
+                endDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")),
+                wasAchieved() ? "Achieved" : "Missed");
+        }
+    }
+
+    enum GoalEvent { EXPIRY, PACE_CHECK }
+
+    static class GoalTimeout {
+        private final Goal goal;
+        private final GoalEvent event;
+        private final long periodEndDay;
+        private long remainingRounds;
+        private GoalTimeout next;
+
+        GoalTimeout(Goal goal, GoalEvent event, long remainingRounds) {
+            this.goal = goal;
+            this.event = event;
+            this.periodEndDay = goal.getEndDate().toEpochDay();
+            this.remainingRounds = remainingRounds;
+        }
+
+        public Goal getGoal() { return goal; }
+        public GoalEvent getEvent() { return event; }
+
+        // True when the goal has rolled over to a new period since this timeout was scheduled
+        public boolean isStale() {
+            return goal.getEndDate().toEpochDay() != periodEndDay;
+        }
+    }
+
+    // Hashed timing wheel with one slot per day. Scheduling and expiry are O(1) per goal;
+    // advancing only visits the slots for the days that have passed, never the full goal list.
+    static class GoalScheduler {
+        private static final int WHEEL_SIZE = 512;
+        private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+        private final GoalTimeout[] wheel = new GoalTimeout[WHEEL_SIZE];
+        private long currentDay;
+        private int size;
+
+        public GoalScheduler(LocalDate lastProcessedDay) {
+            this.currentDay = lastProcessedDay.toEpochDay();
+        }
+
+        public void schedule(Goal goal, GoalEvent event, LocalDate dueDate) {
+            // Anything already due fires on the next tick
+            long dueDay = Math.max(dueDate.toEpochDay(), currentDay + 1);
+            // The slot for dueDay is next visited at some tick in (currentDay, currentDay + WHEEL_SIZE],
+            // and then once every WHEEL_SIZE ticks. Each visit before dueDay decrements the rounds, so
+            // it must start at the number of full turns left after that first visit:
+            // delay 1..512 -> 0 rounds, 513..1024 -> 1 round, and so on.
+            long remainingRounds = (dueDay - currentDay - 1) / WHEEL_SIZE;
+            int slot = (int) (dueDay & WHEEL_MASK);
+
+            GoalTimeout timeout = new GoalTimeout(goal, event, remainingRounds);
+            timeout.next = wheel[slot];
+            wheel[slot] = timeout;
+            size++;
+        }
+
+        public List<GoalTimeout> advanceTo(LocalDate today) {
+            long targetDay = today.toEpochDay();
+            List<GoalTimeout> expired = new ArrayList<>();
+
+            while (currentDay < targetDay) {
+                if (size == 0) {
+                    currentDay = targetDay;
+                    break;
+                }
+                currentDay++;
+                int slot = (int) (currentDay & WHEEL_MASK);
+                GoalTimeout timeout = wheel[slot];
+                wheel[slot] = null;
+
+                while (timeout != null) {
+                    GoalTimeout next = timeout.next;
+                    if (timeout.remainingRounds == 0) {
+                        timeout.next = null;
+                        expired.add(timeout);
+                        size--;
+                    } else {
+                        timeout.remainingRounds--;
+                        timeout.next = wheel[slot];
+                        wheel[slot] = timeout;
+                    }
+                    timeout = next;
+                }
+            }
+            return expired;
+        }
+
+        public int size() { return size; }
+    }
+
     // Core Data
     private static User user;
     private static List<Activity> activities = new ArrayList<>();
-    private static List<Goal> goals = new ArrayList<>();
+    private static Set<Goal> goals = new LinkedHashSet<>();
+    private static List<ArchivedGoal> archivedGoals = new ArrayList<>();
     private static final String DATABASE_FILE = "fitness_tracker_data.txt";
 
+    // Goal Scheduling
+    private static final GoalScheduler goalScheduler = new GoalScheduler(LocalDate.now().minusDays(1));
+    private static final int SCHEDULER_POLL_MS = 60_000;
+
     // GUI Components
     private static JFrame frame;
     private static JTextArea outputArea;
@@ -159,6 +327,10 @@ public class FitnessTracker {
         
         loadFromFile();
         setupGUI();
+
+        // Process deadlines that passed while the app was closed, then watch for day changes
+        SwingUtilities.invokeLater(FitnessTracker::runGoalScheduler);
+        new javax.swing.Timer(SCHEDULER_POLL_MS, e -> runGoalScheduler()).start();
     }
 
     private static void setupGUI() {
@@ -283,12 +455,13 @@ public class FitnessTracker {
             return;
         }
 
-        JPanel panel = new JPanel(new GridLayout(3, 2, 5, 5));
+        JPanel panel = new JPanel(new GridLayout(4, 2, 5, 5));
         
         String[] goalTypes = {"Calories Burned", "Activity Duration"};
         JComboBox<String> typeCombo = new JComboBox<>(goalTypes);
         JTextField targetField = new JTextField();
         JTextField daysField = new JTextField();
+        JCheckBox recurringBox = new JCheckBox("Reset when period ends");
 
         panel.add(new JLabel("Goal Type:"));
         panel.add(typeCombo);
@@ -296,6 +469,8 @@ public class FitnessTracker {
         panel.add(targetField);
         panel.add(new JLabel("Duration (days):"));
         panel.add(daysField);
+        panel.add(new JLabel("Repeat:"));
+        panel.add(recurringBox);
 
         int result = JOptionPane.showConfirmDialog(frame, panel, 
             "Set New Goal", JOptionPane.OK_CANCEL_OPTION);
@@ -305,9 +480,14 @@ public class FitnessTracker {
                 String goalType = (String) typeCombo.getSelectedItem();
                 double target = Double.parseDouble(targetField.getText());
                 int days = Integer.parseInt(daysField.getText());
+                if (days < 1) {
+                    JOptionPane.showMessageDialog(frame, "Duration must be at least 1 day.");
+                    return;
+                }
 
-                Goal goal = new Goal(goalType, target, days);
+                Goal goal = new Goal(goalType, target, days, recurringBox.isSelected());
                 goals.add(goal);
+                scheduleGoal(goal);
                 updateGoalsPanel();
                 statusLabel.setText(" New goal set successfully");
             } catch (NumberFormatException e) {
@@ -316,6 +496,72 @@ public class FitnessTracker {
         }
     }
 
+    private static void scheduleGoal(Goal goal) {
+        goalScheduler.schedule(goal, GoalEvent.EXPIRY, goal.getEndDate());
+        // Nothing is checked on the first day of a period, when any goal without progress looks behind
+        LocalDate firstCheck = nextPaceCheck(goal, goal.getStartDate().plusDays(1));
+        if (firstCheck.isAfter(goal.getStartDate())) {
+            goalScheduler.schedule(goal, GoalEvent.PACE_CHECK, firstCheck);
+        }
+    }
+
+    // Pace is checked roughly four times per period, always including the last active day
+    private static LocalDate nextPaceCheck(Goal goal, LocalDate from) {
+        int interval = Math.max(1, (goal.getDurationDays() + 3) / 4);
+        LocalDate lastDay = goal.getEndDate().minusDays(1);
+        LocalDate next = from.plusDays(interval);
+        return next.isAfter(lastDay) ? lastDay : next;
+    }
+
+    private static void runGoalScheduler() {
+        LocalDate today = LocalDate.now();
+        boolean goalsChanged = false;
+        List<String> reminders = new ArrayList<>();
+
+        for (GoalTimeout timeout : goalScheduler.advanceTo(today)) {
+            Goal goal = timeout.getGoal();
+            if (timeout.isStale() || !goals.contains(goal)) continue;
+
+            switch (timeout.getEvent()) {
+                case EXPIRY -> {
+                    archivedGoals.add(new ArchivedGoal(goal));
+                    if (goal.isRecurring()) {
+                        goal.startNextPeriod();
+                        // Periods missed while the app was closed are archived with no progress
+                        while (!goal.getEndDate().isAfter(today)) {
+                            archivedGoals.add(new ArchivedGoal(goal));
+                            goal.startNextPeriod();
+                        }
+                        scheduleGoal(goal);
+                    } else {
+                        goals.remove(goal);
+                    }
+                    goalsChanged = true;
+                }
+                case PACE_CHECK -> {
+                    LocalDate lastDay = goal.getEndDate().minusDays(1);
+                    if (today.isAfter(lastDay)) continue;
+                    if (goal.isBehindPace(today)) {
+                        reminders.add(String.format("%s %.1f/%.1f (expected %.1f)",
+                            goal.getGoalType(), goal.getProgress(), goal.getTarget(),
+                            goal.getExpectedProgress(today)));
+                    }
+                    if (today.isBefore(lastDay)) {
+                        goalScheduler.schedule(goal, GoalEvent.PACE_CHECK, nextPaceCheck(goal, today));
+                    }
+                }
+            }
+        }
+
+        if (goalsChanged) {
+            updateGoalsPanel();
+            statusLabel.setText(" Expired goals moved to archive");
+        }
+        if (!reminders.isEmpty()) {
+            statusLabel.setText(" Behind pace: " + String.join("; ", reminders));
+        }
+    }
+
     private static void updateGoalsPanel() {
         goalsPanel.removeAll();
         
@@ -496,7 +742,7 @@ public class FitnessTracker {
     }
 
     private static void viewGoals() {
-        if (goals.isEmpty()) {
+        if (goals.isEmpty() && archivedGoals.isEmpty()) {
             JOptionPane.showMessageDialog(frame, "No goals set yet.");
             return;
         }
@@ -506,6 +752,13 @@ public class FitnessTracker {
             report.append(goal.toString()).append("\n");
         }
 
+        if (!archivedGoals.isEmpty()) {
+            report.append("\nPast Goals:\n\n");
+            for (ArchivedGoal archived : archivedGoals) {
+                report.append(archived.toString()).append("\n");
+            }
+        }
+
         JTextArea textArea = new JTextArea(report.toString());
         textArea.setEditable(false);
         JScrollPane scrollPane = new JScrollPane(textArea);
@@ -627,6 +880,9 @@ public class FitnessTracker {
             // Save goals
             oos.writeObject(new ArrayList<>(goals));
 
+            // Save archived goals
+            oos.writeObject(new ArrayList<>(archivedGoals));
+
             statusLabel.setText(" Data saved successfully");
         } catch (IOException e) {
             JOptionPane.showMessageDialog(frame, "Error saving data: " + e.getMessage());
@@ -646,7 +902,15 @@ public class FitnessTracker {
             activities = new ArrayList<>((List<Activity>) ois.readObject());
 
             // Load goals
-            goals = new ArrayList<>((List<Goal>) ois.readObject());
+            goals = new LinkedHashSet<>((List<Goal>) ois.readObject());
+            goals.forEach(FitnessTracker::scheduleGoal);
+
+            // Load archived goals (missing from files saved before the archive existed)
+            try {
+                archivedGoals = new ArrayList<>((List<ArchivedGoal>) ois.readObject());
+            } catch (EOFException e) {
+                archivedGoals = new ArrayList<>();
+            }
 
         } catch (IOException | ClassNotFoundException e) {
             JOptionPane.showMessageDialog(frame, "Error loading data: " + e.getMessage());